@@ -0,0 +1,251 @@
+package ServerSupport;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.PrintWriter;
+import java.net.Socket;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Admission control for an accept loop.
+ *
+ * Every accepted socket must pass three checks before a handler thread is
+ * spawned for it: the per-IP connection rate, the number of connections still
+ * in their handshake, and the total number of live sessions. A rejected
+ * connection should be answered with {@link #BUSY} and closed straight away.
+ *
+ * Every admitted connection also gets a fixed handshake deadline: if
+ * {@link Admission#handshakeCompleted()} has not been called within
+ * {@link #HANDSHAKE_TIMEOUT_MS}, a shared watchdog closes the socket, however
+ * slowly the client keeps trickling bytes in.
+ */
+public final class AdmissionControl {
+	public static final String BUSY = "SERVER_BUSY";
+	public static final String WELCOME = "WELCOME";
+
+	// Defaults shared by the game server, the router and the chat server
+	public static final int DEFAULT_MAX_SESSIONS = 512;
+	public static final int DEFAULT_MAX_PENDING_HANDSHAKES = 128;
+	public static final int DEFAULT_CONNECTIONS_PER_IP_BURST = 20;
+	public static final double DEFAULT_CONNECTIONS_PER_IP_PER_SECOND = 2;
+	public static final int HANDSHAKE_TIMEOUT_MS = 60000; // whole handshake, also used as the per-read timeout
+
+	private static final int MAX_TRACKED_ADDRESSES = 10000;
+	private static final ScheduledThreadPoolExecutor watchdog = createWatchdog();
+
+	private final int maxSessions;
+	private final Semaphore sessions;
+	private final Semaphore handshakes;
+	private final int burstPerAddress;
+	private final double refillPerSecond;
+	// Access-ordered, so once the cap is reached each new address evicts the
+	// least recently seen one in constant time
+	private final Map<String, RateBucket> buckets = new LinkedHashMap<>(256, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, RateBucket> eldest) {
+			return size() > MAX_TRACKED_ADDRESSES;
+		}
+	};
+
+	/**
+	 * @param maxSessions          live sessions allowed at once
+	 * @param maxPendingHandshakes sessions allowed to be still identifying
+	 * @param burstPerAddress      connections one address may open back to back,
+	 *                             or 0 to disable the per-address limit
+	 * @param refillPerSecond      sustained connections per second per address
+	 */
+	public AdmissionControl(int maxSessions, int maxPendingHandshakes, int burstPerAddress, double refillPerSecond) {
+		this.maxSessions = maxSessions;
+		this.sessions = new Semaphore(maxSessions);
+		this.handshakes = new Semaphore(maxPendingHandshakes);
+		this.burstPerAddress = burstPerAddress;
+		this.refillPerSecond = refillPerSecond;
+	}
+
+	/**
+	 * Admission control for servers facing clients directly, with the default
+	 * limits and the per-address rate limit enabled.
+	 */
+	public static AdmissionControl withDefaults() {
+		return new AdmissionControl(DEFAULT_MAX_SESSIONS, DEFAULT_MAX_PENDING_HANDSHAKES,
+				DEFAULT_CONNECTIONS_PER_IP_BURST, DEFAULT_CONNECTIONS_PER_IP_PER_SECOND);
+	}
+
+	/**
+	 * Default limits without the per-address rate limit, for a server whose
+	 * connections all come from one trusted front-end.
+	 */
+	public static AdmissionControl withoutAddressLimit() {
+		return new AdmissionControl(DEFAULT_MAX_SESSIONS, DEFAULT_MAX_PENDING_HANDSHAKES, 0, 0);
+	}
+
+	public Admission tryAdmit(Socket socket) {
+		String address = socket.getInetAddress().getHostAddress();
+		if (burstPerAddress > 0 && !bucketFor(address).tryTake()) {
+			return Admission.rejected("too many connections from " + address);
+		}
+		if (!sessions.tryAcquire()) {
+			return Admission.rejected("session limit reached");
+		}
+		if (!handshakes.tryAcquire()) {
+			sessions.release();
+			return Admission.rejected("too many pending handshakes");
+		}
+		Admission admission = new Admission(this);
+		admission.deadline = watchdog.schedule(() -> admission.expire(socket), HANDSHAKE_TIMEOUT_MS,
+				TimeUnit.MILLISECONDS);
+		return admission;
+	}
+
+	public int activeSessions() {
+		return maxSessions - sessions.availablePermits();
+	}
+
+	/**
+	 * Answers a rejected client of an object-stream protocol (game server,
+	 * router) with {@link #BUSY} and closes the socket.
+	 */
+	public static void rejectObjectStream(Socket socket, String reason) {
+		reject(socket, reason, s -> {
+			ObjectOutputStream rejectOut = new ObjectOutputStream(s.getOutputStream());
+			rejectOut.writeObject(BUSY + ": " + reason + ". Please try again later.");
+			rejectOut.flush();
+		});
+	}
+
+	/**
+	 * Answers a rejected client of a line-based protocol (chat server) with a
+	 * SERVERBUSY line and closes the socket.
+	 */
+	public static void rejectTextLine(Socket socket, String reason) {
+		reject(socket, reason, s -> new PrintWriter(s.getOutputStream(), true).println("SERVERBUSY " + reason));
+	}
+
+	private interface RejectionWriter {
+		void write(Socket socket) throws IOException;
+	}
+
+	// Runs on the accept thread, so it only does one small write before closing
+	private static void reject(Socket socket, String reason, RejectionWriter writer) {
+		AsyncLog.warn("Client rejected", "ip", socket.getInetAddress().getHostAddress(), "reason", reason);
+		try (socket) {
+			writer.write(socket);
+		} catch (IOException e) {
+			AsyncLog.debug("Could not send rejection", "reason", e.getMessage());
+		}
+	}
+
+	private static ScheduledThreadPoolExecutor createWatchdog() {
+		ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, r -> {
+			Thread t = new Thread(r, "handshake-watchdog");
+			t.setDaemon(true);
+			return t;
+		});
+		executor.setRemoveOnCancelPolicy(true); // completed handshakes do not linger in the queue
+		return executor;
+	}
+
+	private RateBucket bucketFor(String address) {
+		synchronized (buckets) {
+			return buckets.computeIfAbsent(address, a -> new RateBucket(burstPerAddress, refillPerSecond));
+		}
+	}
+
+	/**
+	 * Permits held by one admitted connection. Both release methods are
+	 * idempotent, so they can be called from finally blocks freely.
+	 */
+	public static final class Admission {
+		private final AdmissionControl owner;
+		private final String reason;
+		private final AtomicBoolean handshakeHeld;
+		private final AtomicBoolean sessionHeld;
+		private volatile ScheduledFuture<?> deadline;
+
+		private Admission(AdmissionControl owner) {
+			this.owner = owner;
+			this.reason = null;
+			this.handshakeHeld = new AtomicBoolean(true);
+			this.sessionHeld = new AtomicBoolean(true);
+		}
+
+		private Admission(String reason) {
+			this.owner = null;
+			this.reason = reason;
+			this.handshakeHeld = new AtomicBoolean(false);
+			this.sessionHeld = new AtomicBoolean(false);
+		}
+
+		static Admission rejected(String reason) {
+			return new Admission(reason);
+		}
+
+		public boolean isAdmitted() {
+			return owner != null;
+		}
+
+		public String getReason() {
+			return reason;
+		}
+
+		public void handshakeCompleted() {
+			if (handshakeHeld.compareAndSet(true, false)) {
+				deadline.cancel(false);
+				owner.handshakes.release();
+			}
+		}
+
+		// Called by the watchdog at the deadline. Frees the handshake slot at once
+		// and closes the socket so the handler's blocked read fails and it cleans up.
+		private void expire(Socket socket) {
+			if (handshakeHeld.compareAndSet(true, false)) {
+				owner.handshakes.release();
+				AsyncLog.warn("Handshake deadline passed, closing connection", "ip",
+						socket.getInetAddress().getHostAddress());
+				try {
+					socket.close();
+				} catch (IOException e) {
+					AsyncLog.debug("Error closing expired handshake", "reason", e.getMessage());
+				}
+			}
+		}
+
+		public void close() {
+			handshakeCompleted();
+			if (sessionHeld.compareAndSet(true, false)) {
+				owner.sessions.release();
+			}
+		}
+	}
+
+	private static final class RateBucket {
+		private final int capacity;
+		private final double refillPerMilli;
+		private double tokens;
+		private long lastUsed;
+
+		RateBucket(int capacity, double refillPerSecond) {
+			this.capacity = capacity;
+			this.refillPerMilli = refillPerSecond / 1000.0;
+			this.tokens = capacity;
+			this.lastUsed = System.currentTimeMillis();
+		}
+
+		synchronized boolean tryTake() {
+			long now = System.currentTimeMillis();
+			tokens = Math.min(capacity, tokens + (now - lastUsed) * refillPerMilli);
+			lastUsed = now;
+			if (tokens < 1) {
+				return false;
+			}
+			tokens--;
+			return true;
+		}
+	}
+}
@@ -0,0 +1,217 @@
+package ServerSupport;
+
+import java.io.*;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Asynchronous logger shared by the game server and the chat server.
+ *
+ * Handler threads only claim a slot in a fixed-size ring buffer and publish
+ * the entry; formatting and the actual write to stdout are done by a single
+ * background writer thread. When the ring is full the entry is dropped and
+ * counted instead of blocking the caller, so log volume never stalls a round.
+ */
+public final class AsyncLog {
+
+	public enum Level {
+		DEBUG, INFO, WARN, ERROR
+	}
+
+	private static final int CAPACITY = 8192; // must be a power of two
+	private static final int MASK = CAPACITY - 1;
+	private static final long IDLE_PARK_NANOS = 1_000_000L; // shutdown hook polling interval
+
+	private static final AtomicReferenceArray<Entry> ring = new AtomicReferenceArray<>(CAPACITY);
+	private static final AtomicLong tail = new AtomicLong(); // next slot to claim (producers)
+	private static volatile long head = 0; // next slot to drain (writer only)
+	private static final AtomicLong dropped = new AtomicLong();
+	private static long failed = 0; // entries that threw while being formatted; writer thread only
+	private static volatile Level threshold = parseLevel(System.getProperty("log.level"), Level.INFO);
+	private static volatile boolean writerSleeping = false; // set while the writer is parked on an empty ring
+	private static final Thread writer = new Thread(AsyncLog::drainLoop, "log-writer");
+
+	static {
+		writer.setDaemon(true);
+		writer.start();
+		Runtime.getRuntime().addShutdownHook(new Thread(AsyncLog::flushPending, "log-flush"));
+	}
+
+	private AsyncLog() {
+	}
+
+	public static void setLevel(Level level) {
+		threshold = level;
+	}
+
+	public static boolean isEnabled(Level level) {
+		return level.ordinal() >= threshold.ordinal();
+	}
+
+	public static long droppedCount() {
+		return dropped.get();
+	}
+
+	// Structured fields are passed as key/value pairs, e.g.
+	// AsyncLog.info("Player eliminated", "player", name, "game", gameName, "round", 3)
+	public static void debug(String message, Object... fields) {
+		log(Level.DEBUG, message, null, fields);
+	}
+
+	public static void info(String message, Object... fields) {
+		log(Level.INFO, message, null, fields);
+	}
+
+	public static void warn(String message, Object... fields) {
+		log(Level.WARN, message, null, fields);
+	}
+
+	public static void error(String message, Object... fields) {
+		log(Level.ERROR, message, null, fields);
+	}
+
+	public static void error(String message, Throwable cause, Object... fields) {
+		log(Level.ERROR, message, cause, fields);
+	}
+
+	private static void log(Level level, String message, Throwable cause, Object[] fields) {
+		if (!isEnabled(level)) {
+			return;
+		}
+		long slot;
+		do {
+			slot = tail.get();
+			if (slot - head >= CAPACITY) {
+				dropped.incrementAndGet(); // ring is full, drop instead of waiting for the writer
+				return;
+			}
+		} while (!tail.compareAndSet(slot, slot + 1));
+
+		ring.set((int) (slot & MASK), new Entry(System.currentTimeMillis(), level,
+				Thread.currentThread().getName(), message, cause, fields));
+		if (writerSleeping) {
+			LockSupport.unpark(writer);
+		}
+	}
+
+	private static void drainLoop() {
+		PrintStream sink = new PrintStream(new BufferedOutputStream(new FileOutputStream(FileDescriptor.out), 16384),
+				false);
+		long reportedDrops = 0;
+		long reportedFailures = 0;
+		while (true) {
+			boolean wrote = drainAvailable(sink);
+
+			if (failed != reportedFailures) {
+				sink.println(Instant.now() + " WARN  [log-writer] Skipped entries that failed to format, total="
+						+ failed);
+				reportedFailures = failed;
+				wrote = true;
+			}
+
+			long drops = dropped.get();
+			if (drops != reportedDrops) {
+				sink.println(Instant.now() + " WARN  [log-writer] Log buffer full, dropped messages total=" + drops);
+				reportedDrops = drops;
+				wrote = true;
+			}
+
+			if (wrote) {
+				sink.flush();
+			} else {
+				parkUntilPublished();
+			}
+		}
+	}
+
+	// Parks until a producer publishes into the next slot. The flag is raised
+	// before the slot is re-checked and producers check the flag after
+	// publishing, so either the writer sees the entry or the producer unparks it.
+	private static void parkUntilPublished() {
+		writerSleeping = true;
+		while (ring.get((int) (head & MASK)) == null) {
+			LockSupport.park();
+		}
+		writerSleeping = false;
+	}
+
+	// Writes every published entry in order; stops at a claimed slot that has not
+	// been filled yet so entries are never reordered.
+	private static boolean drainAvailable(PrintStream sink) {
+		boolean wrote = false;
+		long h = head;
+		while (h < tail.get()) {
+			int index = (int) (h & MASK);
+			Entry entry = ring.get(index);
+			if (entry == null) {
+				break;
+			}
+			ring.set(index, null);
+			head = ++h;
+			try {
+				entry.writeTo(sink);
+			} catch (RuntimeException e) {
+				// e.g. a field's toString() threw; skip the entry rather than lose the writer
+				failed++;
+			}
+			wrote = true;
+		}
+		return wrote;
+	}
+
+	private static void flushPending() {
+		// Give the writer thread a moment to empty the ring before the JVM exits
+		long deadline = System.nanoTime() + 200_000_000L;
+		while (head < tail.get() && System.nanoTime() < deadline) {
+			LockSupport.parkNanos(IDLE_PARK_NANOS);
+		}
+		LockSupport.parkNanos(2 * IDLE_PARK_NANOS); // let the writer flush its last batch
+	}
+
+	private static Level parseLevel(String value, Level fallback) {
+		if (value == null) {
+			return fallback;
+		}
+		try {
+			return Level.valueOf(value.trim().toUpperCase());
+		} catch (IllegalArgumentException e) {
+			return fallback;
+		}
+	}
+
+	private static final class Entry {
+		private final long timestamp;
+		private final Level level;
+		private final String thread;
+		private final String message;
+		private final Throwable cause;
+		private final Object[] fields;
+
+		Entry(long timestamp, Level level, String thread, String message, Throwable cause, Object[] fields) {
+			this.timestamp = timestamp;
+			this.level = level;
+			this.thread = thread;
+			this.message = message;
+			this.cause = cause;
+			this.fields = fields;
+		}
+
+		void writeTo(PrintStream sink) {
+			StringBuilder line = new StringBuilder(96);
+			line.append(Instant.ofEpochMilli(timestamp)).append(' ');
+			line.append(String.format("%-5s", level)).append(" [").append(thread).append("] ");
+			line.append(message);
+			if (fields != null) {
+				for (int i = 0; i + 1 < fields.length; i += 2) {
+					line.append(' ').append(fields[i]).append('=').append(fields[i + 1]);
+				}
+			}
+			sink.println(line);
+			if (cause != null) {
+				cause.printStackTrace(sink);
+			}
+		}
+	}
+}
@@ -57,7 +57,15 @@ public class ChatClient {
         // Process all messages from server, according to the protocol.
         while (true) {
             String line = in.readLine();
-            if (line.startsWith("SUBMITNAME")) {
+            if (line == null) {
+                return;
+            }
+            if (line.startsWith("SERVERBUSY")) {
+                JOptionPane.showMessageDialog(frame, "Chat server is busy: " + line.substring(11),
+                    "Server busy", JOptionPane.WARNING_MESSAGE);
+                socket.close();
+                return;
+            } else if (line.startsWith("SUBMITNAME")) {
                 out.println(getName());
             } else if (line.startsWith("NAMEACCEPTED")) {
                 textField.setEditable(true);
@@ -6,17 +6,27 @@ import java.net.*;
 import java.util.concurrent.*;
 import java.util.*;
 
+import ServerSupport.AdmissionControl;
+import ServerSupport.AsyncLog;
+
 public class ChatServer {
     private static final int PORT = 12345;
     private static Map<String, PrintWriter> clients = new ConcurrentHashMap<>();
+    private static final AdmissionControl admission = AdmissionControl.withDefaults();
 
     public static void main(String[] args) throws Exception {
-        System.out.println("The chat server is running...");
+        AsyncLog.info("The chat server is running", "port", PORT);
         ServerSocket listener = new ServerSocket(PORT);
 
         try {
             while (true) {
-                new Handler(listener.accept()).start();
+                Socket socket = listener.accept();
+                AdmissionControl.Admission ticket = admission.tryAdmit(socket);
+                if (ticket.isAdmitted()) {
+                    new Handler(socket, ticket).start();
+                } else {
+                    AdmissionControl.rejectTextLine(socket, ticket.getReason());
+                }
             }
         } finally {
             listener.close();
@@ -28,9 +38,11 @@ public class ChatServer {
         private Socket socket;
         private BufferedReader in;
         private PrintWriter out;
+        private final AdmissionControl.Admission admissionTicket;
 
-        public Handler(Socket socket) {
+        public Handler(Socket socket, AdmissionControl.Admission admissionTicket) {
             this.socket = socket;
+            this.admissionTicket = admissionTicket;
         }
 
         public void run() {
@@ -38,7 +50,9 @@ public class ChatServer {
                 in = new BufferedReader(new InputStreamReader(socket.getInputStream()));
                 out = new PrintWriter(socket.getOutputStream(), true);
 
-                // Handle new name registration
+                // Handle new name registration. The admission deadline covers every
+                // resubmitted name; the read timeout only guards a single silent read.
+                socket.setSoTimeout(AdmissionControl.HANDSHAKE_TIMEOUT_MS);
                 while (true) {
                     out.println("SUBMITNAME");
                     name = in.readLine();
@@ -53,6 +67,8 @@ public class ChatServer {
                     }
                 }
 
+                socket.setSoTimeout(0);
+                admissionTicket.handshakeCompleted();
                 out.println("NAMEACCEPTED");
                 clients.values().forEach(writer -> writer.println("MESSAGE " + name + " has joined"));
 
@@ -67,9 +83,10 @@ public class ChatServer {
                     }
                 }
             } catch (IOException e) {
-                System.out.println(e.getMessage());
+                AsyncLog.warn("Chat client error", "player", name, "reason", e.getMessage());
             } finally {
                 // Clean up when a client leaves
+                admissionTicket.close();
                 if (name != null && out != null) {
                     clients.remove(name);
                     clients.values().forEach(writer -> writer.println("MESSAGE " + name + " has left"));
@@ -77,7 +94,7 @@ public class ChatServer {
                 try {
                     socket.close();
                 } catch (IOException e) {
-                    System.out.println(e.getMessage());
+                    AsyncLog.warn("Error closing chat socket", "player", name, "reason", e.getMessage());
                 }
             }
         }
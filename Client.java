@@ -2,127 +2,289 @@ import java.io.*;
 import java.net.Socket;
 import java.util.List;
 import java.util.Scanner;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
 
+/**
+ * Game client. A dedicated reader thread consumes every server message as soon
+ * as it arrives, answers PING on the spot and hands prompts that need the
+ * player's input to a separate input thread, so a slow typist never leaves
+ * server messages unread.
+ *
+ * The player's side is supplied by a {@link Driver}: {@link ConsoleDriver}
+ * for humans, or any implementation for bots and tests.
+ */
 public class Client {
-	private static ObjectOutputStream out;
-	private static ObjectInputStream in;
-	private static final Scanner scanner = new Scanner(System.in);
 
-	public static void main(String[] args) {
-		System.out.println("Enter server IP:");
-		String serverIP = scanner.nextLine();
-		System.out.println("Enter server Port:");
-		int serverPort = Integer.parseInt(scanner.nextLine());
+	/**
+	 * Decisions and output for one player. The prompt methods are called on the
+	 * client's input thread and may block; {@link #onMessage} is called on the
+	 * reader thread and should return quickly.
+	 */
+	public interface Driver {
+		String nickname();
+
+		String chooseGame(List<String> games);
 
-		try (Socket socket = new Socket(serverIP, serverPort)) {
-			out = new ObjectOutputStream(socket.getOutputStream());
-			in = new ObjectInputStream(socket.getInputStream());
+		String leaderDecision(String prompt);
 
-			System.out.println("Connected to the server at " + serverIP + ":" + serverPort);
+		int chooseNumber(String prompt);
+
+		void onMessage(String message);
+	}
 
-			// Identify and connect
-			identifyAndConnect();
+	private enum PromptType {
+		GAME, LEADER, NUMBER
+	}
 
-			// Display leaderboard and connected players
-			displayLeaderboardAndPlayers();
+	// Where the session is in the server's fixed opening sequence: the welcome
+	// message, then the leaderboard, connected players and games lists, then game
+	// traffic. Messages are classified by phase first, so text that only echoes a
+	// nickname or game name is never mistaken for a prompt.
+	private enum Phase {
+		IDENTIFYING, LOBBY, IN_GAME
+	}
 
-			// Display available games and join or create game
-			joinOrCreateGame();
+	// Prompts are matched on the server's exact wording from the start of the
+	// message; round results and other broadcasts begin differently
+	private static final Pattern LEADER_PROMPT = Pattern
+			.compile("^#Players in Lobby: \\d+\nLeader, do you want to start the game\\?");
+	private static final Pattern ROUND_PROMPT = Pattern.compile("^Round \\d+ has started\\.");
 
-			// Participate in the game rounds
-			participateInGame();
+	private static final class Prompt {
+		final PromptType type;
+		final Object payload;
 
-		} catch (IOException | ClassNotFoundException e) {
-			System.out.println("An error occurred: " + e.getMessage());
-			e.printStackTrace();
+		Prompt(PromptType type, Object payload) {
+			this.type = type;
+			this.payload = payload;
 		}
 	}
 
-	private static void identifyAndConnect() throws IOException, ClassNotFoundException {
-		System.out.println("Enter your nickname:");
-		String nickname = scanner.nextLine();
-		out.writeObject(nickname);
-		out.flush();
+	private static final Prompt STOP = new Prompt(null, null);
+
+	private final Socket socket;
+	private final ObjectOutputStream out;
+	private final ObjectInputStream in;
+	private final Driver driver;
+	private final BlockingQueue<Prompt> prompts = new LinkedBlockingQueue<>();
+	private final CountDownLatch finished = new CountDownLatch(1);
+	private Phase phase = Phase.IDENTIFYING; // only touched by the reader thread
+	private int listsReceived = 0; // leaderboard, connected players, then the games list
+
+	private Client(Socket socket, Driver driver) throws IOException {
+		this.socket = socket;
+		this.driver = driver;
+		this.out = new ObjectOutputStream(socket.getOutputStream());
+		this.out.flush();
+		this.in = new ObjectInputStream(socket.getInputStream());
+	}
 
-		// Receive a confirmation from the server
-		String confirmation = (String) in.readObject();
-		System.out.println("Confirmation received: " + confirmation);
-	}
-
-	private static void displayLeaderboardAndPlayers() throws IOException, ClassNotFoundException {
-		// Receive and display the leaderboard
-		List<String> leaderboard = (List<String>) in.readObject();
-		System.out.println(" ///Leaderboard//////");
-		leaderboard.forEach(System.out::println);
-
-		// Receive and display connected players
-		List<String> connectedPlayers = (List<String>) in.readObject();
-		System.out.println(" ///ConnectedPlayers//////");
-		connectedPlayers.forEach(player -> System.out.println("#" + player));
-	}
-
-	private static void joinOrCreateGame() throws IOException, ClassNotFoundException {
-		// Receive a list of games from the server
-		List<String> gamesList = (List<String>) in.readObject();
-		System.out.println("+++++++++++++++++++++++");
-		System.out.println("Available games:");
-		System.out.println("Game Name \t#Players\tisActive\tisLocked");
-		gamesList.forEach(System.out::println);
-		System.out.println("+++++++++++++++++++++++");
-		System.out.println("Enter the name of the game to create or join:");
-		String gameName = scanner.nextLine();
-		out.writeObject(gameName);
+	/**
+	 * Connects, identifies with the driver's nickname and starts the reader and
+	 * input threads. Throws if the server turns the connection away.
+	 */
+	public static Client connect(String host, int port, Driver driver) throws IOException, ClassNotFoundException {
+		Socket socket = new Socket(host, port);
+		try {
+			Client client = new Client(socket, driver);
+			// The server answers every connection with WELCOME or SERVER_BUSY first
+			String admission = (String) client.in.readObject();
+			if (admission.startsWith("SERVER_BUSY")) {
+				throw new IOException("Server refused the connection: " + admission);
+			}
+			driver.onMessage("Connected to the server at " + host + ":" + port);
+			client.send(driver.nickname());
+			client.start();
+			return client;
+		} catch (IOException | ClassNotFoundException | RuntimeException e) {
+			socket.close();
+			throw e;
+		}
+	}
+
+	private void start() {
+		Thread reader = new Thread(this::readLoop, "client-reader");
+		Thread input = new Thread(this::inputLoop, "client-input");
+		input.setDaemon(true); // may be stuck reading System.in when the server goes away
+		reader.start();
+		input.start();
+	}
+
+	public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+		return finished.await(timeout, unit);
+	}
+
+	public void awaitTermination() throws InterruptedException {
+		finished.await();
+	}
+
+	public void close() throws IOException {
+		socket.close();
+	}
+
+	// Resetting after each write keeps the stream handle tables from growing for
+	// the whole session
+	private synchronized void send(Object message) throws IOException {
+		out.writeObject(message);
+		out.reset();
 		out.flush();
+	}
 
-		// Receive confirmation of game joined or created
-		String response = (String) in.readObject();
-		System.out.println(response);
-	}
-
-	private static void participateInGame() throws IOException, ClassNotFoundException {
-		boolean gameActive = true;
-		while (gameActive) {
-			Object serverMessage = in.readObject();
-			if (serverMessage instanceof String) {
-				String message = (String) serverMessage;
-				if (message.equals("PING")) {
-					// System.out.println("Received PING from server. Sending PONG...");
-					out.writeObject("PONG");
-					out.flush();
-				} else if (message.contains("has started")) {
-					System.out.println(message);
-					int guess = getValidNumber();
-					out.writeObject(guess);
-					out.flush();
-				} else if (message.contains("Leader")) {
-					System.out.println(message);
-					String leaderResponse = scanner.nextLine();
-					out.writeObject(leaderResponse);
-					out.flush();
-				} else if (message.contains("eliminated") || message.contains("winner")
-						|| message.startsWith("Your points")) {
-					System.out.println(message);
-				} else if (message.equals("Game over")) {
-					gameActive = false;
-					System.out.println("Game over. Exiting.");
-				} else {
-					System.out.println(message);
+	private void readLoop() {
+		try {
+			while (true) {
+				Object serverMessage = in.readObject();
+				if (serverMessage instanceof List && phase == Phase.LOBBY) {
+					dispatchList((List<?>) serverMessage);
+				} else if (serverMessage instanceof String) {
+					String message = (String) serverMessage;
+					if (message.equals("PING")) {
+						send("PONG");
+					} else if (phase == Phase.IDENTIFYING) {
+						driver.onMessage("Confirmation received: " + message);
+						phase = Phase.LOBBY;
+					} else if (phase != Phase.IN_GAME) {
+						driver.onMessage(message);
+					} else if (ROUND_PROMPT.matcher(message).find()) {
+						prompts.add(new Prompt(PromptType.NUMBER, message));
+					} else if (LEADER_PROMPT.matcher(message).find()) {
+						prompts.add(new Prompt(PromptType.LEADER, message));
+					} else if (message.equals("Game over")) {
+						driver.onMessage("Game over. Exiting.");
+						break;
+					} else {
+						driver.onMessage(message);
+					}
 				}
 			}
+		} catch (EOFException e) {
+			driver.onMessage("Disconnected from server.");
+		} catch (IOException | ClassNotFoundException e) {
+			if (!socket.isClosed()) {
+				driver.onMessage("An error occurred: " + e.getMessage());
+			}
+		} finally {
+			prompts.add(STOP);
+			try {
+				socket.close();
+			} catch (IOException e) {
+				// nothing left to do with the connection
+			}
+			finished.countDown();
 		}
 	}
 
-	private static int getValidNumber() {
-		int number;
-		do {
-			// System.out.println("Choose a number between 0 and 100:");
-			while (!scanner.hasNextInt()) {
-				System.out.println("That's not a valid number. Please enter a number between 0 and 100:");
-				scanner.next(); // consume the invalid input
+	private void dispatchList(List<?> list) {
+		listsReceived++;
+		if (listsReceived == 1) {
+			StringBuilder text = new StringBuilder(" ///Leaderboard//////");
+			list.forEach(entry -> text.append('\n').append(entry));
+			driver.onMessage(text.toString());
+		} else if (listsReceived == 2) {
+			StringBuilder text = new StringBuilder(" ///ConnectedPlayers//////");
+			list.forEach(player -> text.append("\n#").append(player));
+			driver.onMessage(text.toString());
+		} else {
+			phase = Phase.IN_GAME;
+			prompts.add(new Prompt(PromptType.GAME, list));
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private void inputLoop() {
+		try {
+			while (true) {
+				Prompt prompt = prompts.take();
+				if (prompt == STOP) {
+					return;
+				}
+				switch (prompt.type) {
+				case GAME:
+					send(driver.chooseGame((List<String>) prompt.payload));
+					break;
+				case LEADER:
+					send(driver.leaderDecision((String) prompt.payload));
+					break;
+				case NUMBER:
+					send(driver.chooseNumber((String) prompt.payload));
+					break;
+				}
 			}
-			number = scanner.nextInt();
-			scanner.nextLine(); // consume the newline after the number
-		} while (number < 0 || number > 100);
-		return number;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (IOException e) {
+			driver.onMessage("Could not send to server: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Interactive player on System.in / System.out.
+	 */
+	public static class ConsoleDriver implements Driver {
+		private final Scanner scanner;
+
+		public ConsoleDriver(Scanner scanner) {
+			this.scanner = scanner;
+		}
+
+		public String nickname() {
+			System.out.println("Enter your nickname:");
+			return scanner.nextLine();
+		}
+
+		public String chooseGame(List<String> gamesList) {
+			System.out.println("+++++++++++++++++++++++");
+			System.out.println("Available games:");
+			System.out.println("Game Name \t#Players\tisActive\tisLocked");
+			gamesList.forEach(System.out::println);
+			System.out.println("+++++++++++++++++++++++");
+			System.out.println("Enter the name of the game to create or join:");
+			return scanner.nextLine();
+		}
+
+		public String leaderDecision(String prompt) {
+			System.out.println(prompt);
+			return scanner.nextLine();
+		}
+
+		public int chooseNumber(String prompt) {
+			System.out.println(prompt);
+			int number;
+			do {
+				while (!scanner.hasNextInt()) {
+					System.out.println("That's not a valid number. Please enter a number between 0 and 100:");
+					scanner.next(); // consume the invalid input
+				}
+				number = scanner.nextInt();
+				scanner.nextLine(); // consume the newline after the number
+			} while (number < 0 || number > 100);
+			return number;
+		}
+
+		public void onMessage(String message) {
+			System.out.println(message);
+		}
+	}
+
+	public static void main(String[] args) {
+		Scanner scanner = new Scanner(System.in);
+		System.out.println("Enter server IP:");
+		String serverIP = scanner.nextLine();
+		System.out.println("Enter server Port:");
+		int serverPort = Integer.parseInt(scanner.nextLine());
+
+		try {
+			Client client = connect(serverIP, serverPort, new ConsoleDriver(scanner));
+			client.awaitTermination();
+		} catch (IOException | ClassNotFoundException e) {
+			System.out.println("An error occurred: " + e.getMessage());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		System.exit(0); // the input thread may still be waiting on System.in
 	}
 }
@@ -0,0 +1,267 @@
+import java.io.*;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import ServerSupport.AdmissionControl;
+import ServerSupport.AsyncLog;
+
+/**
+ * Front-end for a sharded deployment. Clients connect here exactly as they
+ * would to a standalone Server; the router identifies them, shows the
+ * leaderboard and lobbies merged from every shard, and then relays the session
+ * to the shard that owns the chosen game (see Server.shardFor).
+ *
+ * Usage: java Router <port> <host:port> [<host:port> ...]
+ * The shard list order defines the shard indexes, so shard i must be started
+ * as: java Server <port> i <number of shards>. The router checks this against
+ * every shard's status and refuses to start on a mismatch. If SHARD_TOKEN is
+ * set in the environment, the router and the shards must share the same value.
+ */
+public class Router {
+	private static final int SHARD_TIMEOUT_MS = 2000; // connect/read limit for shard status queries
+	private static final AdmissionControl admission = AdmissionControl.withDefaults();
+	private static List<InetSocketAddress> shards = new ArrayList<>();
+
+	public static void main(String[] args) {
+		if (args.length < 2) {
+			System.out.println("Usage: java Router <port> <host:port> [<host:port> ...]");
+			return;
+		}
+		int port = Integer.parseInt(args[0]);
+		for (int i = 1; i < args.length; i++) {
+			String[] hostPort = args[i].split(":");
+			shards.add(new InetSocketAddress(hostPort[0], Integer.parseInt(hostPort[1])));
+		}
+		if (!verifyShardOrder()) {
+			AsyncLog.error("Shard order does not match the shards' own index and count, exiting");
+			System.exit(1);
+		}
+		AsyncLog.info("Router started", "port", port, "shards", shards);
+
+		try (ServerSocket serverSocket = new ServerSocket(port)) {
+			while (true) {
+				Socket clientSocket = serverSocket.accept();
+				String ip = clientSocket.getInetAddress().getHostAddress();
+				AdmissionControl.Admission ticket = admission.tryAdmit(clientSocket);
+				if (!ticket.isAdmitted()) {
+					AdmissionControl.rejectObjectStream(clientSocket, ticket.getReason());
+					continue;
+				}
+				AsyncLog.info("Client connected", "ip", ip, "sessions", admission.activeSessions());
+				new RouteHandler(clientSocket, ticket).start();
+			}
+		} catch (IOException e) {
+			AsyncLog.error("Router error", e);
+		}
+	}
+
+	// A shard that cannot be reached yet is only warned about; one that reports
+	// a different index or shard count means the command line order is wrong
+	private static boolean verifyShardOrder() {
+		boolean ok = true;
+		for (int i = 0; i < shards.size(); i++) {
+			try {
+				queryShard(i);
+			} catch (ShardMismatchException e) {
+				AsyncLog.error(e.getMessage(), "shard", i, "address", shards.get(i));
+				ok = false;
+			} catch (IOException | ClassNotFoundException e) {
+				AsyncLog.warn("Shard not reachable at startup", "shard", i, "reason", e.getMessage());
+			}
+		}
+		return ok;
+	}
+
+	private static Socket connectToShard(int index, int readTimeout) throws IOException {
+		Socket shardSocket = new Socket();
+		shardSocket.connect(shards.get(index), SHARD_TIMEOUT_MS);
+		shardSocket.setSoTimeout(readTimeout);
+		return shardSocket;
+	}
+
+	/**
+	 * Status reported by one shard for the merged lobby.
+	 */
+	static class ShardStatus {
+		Map<String, Integer> wins;
+		List<String> connectedPlayers;
+		List<String> gameLines;
+	}
+
+	static class ShardMismatchException extends IOException {
+		private static final long serialVersionUID = 1L;
+
+		ShardMismatchException(String message) {
+			super(message);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static ShardStatus queryShard(int index) throws IOException, ClassNotFoundException {
+		try (Socket shardSocket = connectToShard(index, SHARD_TIMEOUT_MS)) {
+			ObjectOutputStream shardOut = new ObjectOutputStream(shardSocket.getOutputStream());
+			shardOut.flush();
+			ObjectInputStream shardIn = new ObjectInputStream(shardSocket.getInputStream());
+			String admissionReply = (String) shardIn.readObject();
+			if (!AdmissionControl.WELCOME.equals(admissionReply)) {
+				throw new IOException("Shard refused status query: " + admissionReply);
+			}
+			shardOut.writeObject(Server.SHARD_STATUS);
+			shardOut.writeObject(Server.SHARD_TOKEN);
+			shardOut.flush();
+
+			int reportedIndex = (Integer) shardIn.readObject();
+			int reportedCount = (Integer) shardIn.readObject();
+			if (reportedIndex != index || reportedCount != shards.size()) {
+				throw new ShardMismatchException("Shard reports index " + reportedIndex + " of " + reportedCount
+						+ " but is listed as " + index + " of " + shards.size());
+			}
+			ShardStatus status = new ShardStatus();
+			status.wins = (Map<String, Integer>) shardIn.readObject();
+			status.connectedPlayers = (List<String>) shardIn.readObject();
+			status.gameLines = (List<String>) shardIn.readObject();
+			return status;
+		}
+	}
+
+	static class RouteHandler extends Thread {
+		private Socket socket;
+		private ObjectOutputStream out;
+		private ObjectInputStream in;
+		private final AdmissionControl.Admission admissionTicket;
+
+		// Lobby state merged from every reachable shard
+		private Map<String, Integer> wins = new HashMap<>();
+		private List<String> connectedPlayers = new ArrayList<>();
+		private List<String> gameLines = new ArrayList<>();
+
+		public RouteHandler(Socket socket, AdmissionControl.Admission admissionTicket) {
+			this.socket = socket;
+			this.admissionTicket = admissionTicket;
+		}
+
+		public void run() {
+			String nickname = null;
+			try {
+				socket.setSoTimeout(AdmissionControl.HANDSHAKE_TIMEOUT_MS);
+				out = new ObjectOutputStream(socket.getOutputStream());
+				out.writeObject(AdmissionControl.WELCOME);
+				out.flush();
+				in = new ObjectInputStream(socket.getInputStream());
+
+				nickname = (String) in.readObject();
+				socket.setSoTimeout(0);
+				admissionTicket.handshakeCompleted();
+				UUID ticketId = UUID.randomUUID();
+				out.writeObject("Identification successful. Welcome, " + nickname + "\nYour ticket ID is " + ticketId);
+				out.flush();
+
+				collectShardStatus();
+				out.writeObject(leaderboard());
+				out.writeObject(connectedPlayers);
+				out.writeObject(gameLines);
+				out.flush();
+
+				String gameName = (String) in.readObject();
+				int shard = Server.shardFor(gameName, shards.size());
+				AsyncLog.info("Routing player", "player", nickname, "game", gameName, "shard", shard);
+				relay(shard, nickname, ticketId, gameName);
+			} catch (SocketTimeoutException e) {
+				AsyncLog.warn("Handshake timed out", "ip", socket.getInetAddress().getHostAddress());
+			} catch (IOException | ClassNotFoundException e) {
+				AsyncLog.warn("Error routing client", "player", nickname, "reason", e.getMessage());
+			} finally {
+				admissionTicket.close();
+				try {
+					socket.close();
+				} catch (IOException e) {
+					AsyncLog.warn("Error closing socket", "reason", e.getMessage());
+				}
+			}
+		}
+
+		// A shard that fails the query, including one restarted with the wrong
+		// index, is left out of the lobby rather than shown with phantom games
+		private void collectShardStatus() {
+			for (int i = 0; i < shards.size(); i++) {
+				try {
+					ShardStatus status = queryShard(i);
+					status.wins.forEach((name, w) -> wins.merge(name, w, Integer::sum));
+					connectedPlayers.addAll(status.connectedPlayers);
+					gameLines.addAll(status.gameLines);
+				} catch (IOException | ClassNotFoundException e) {
+					AsyncLog.warn("Shard status unavailable", "shard", i, "reason", e.getMessage());
+				}
+			}
+		}
+
+		private List<String> leaderboard() {
+			return wins.entrySet().stream()
+					.sorted(Map.Entry.<String, Integer>comparingByValue().reversed()).limit(5)
+					.map(e -> e.getKey() + " - Wins: " + e.getValue()).collect(Collectors.toList());
+		}
+
+		// Hands the session to the owning shard, then copies messages both ways
+		// until either side disconnects. Messages are relayed object by object
+		// because each side has its own object stream header and handle table;
+		// both relay streams are reset per message so those tables stay empty.
+		private void relay(int shard, String nickname, UUID ticketId, String gameName)
+				throws IOException, ClassNotFoundException {
+			try (Socket shardSocket = connectToShard(shard, 0)) {
+				ObjectOutputStream shardOut = new ObjectOutputStream(shardSocket.getOutputStream());
+				shardOut.flush();
+				ObjectInputStream shardIn = new ObjectInputStream(shardSocket.getInputStream());
+				String admissionReply = (String) shardIn.readObject();
+				if (!AdmissionControl.WELCOME.equals(admissionReply)) {
+					out.writeObject(admissionReply);
+					out.flush();
+					return;
+				}
+				shardOut.writeObject(Server.SHARD_JOIN);
+				shardOut.writeObject(Server.SHARD_TOKEN);
+				shardOut.writeObject(nickname);
+				shardOut.writeObject(ticketId.toString());
+				shardOut.writeObject(gameName);
+				shardOut.flush();
+
+				Thread toClient = new Thread(() -> {
+					try {
+						while (true) {
+							out.writeObject(shardIn.readObject());
+							out.reset();
+							out.flush();
+						}
+					} catch (IOException | ClassNotFoundException e) {
+						AsyncLog.debug("Shard side of session closed", "player", nickname, "shard", shard);
+					} finally {
+						closeQuietly(socket);
+					}
+				}, "relay-" + nickname);
+				toClient.setDaemon(true);
+				toClient.start();
+
+				try {
+					while (true) {
+						shardOut.writeObject(in.readObject());
+						shardOut.reset();
+						shardOut.flush();
+					}
+				} catch (IOException e) {
+					AsyncLog.debug("Client side of session closed", "player", nickname, "shard", shard);
+				}
+			}
+		}
+
+		private static void closeQuietly(Socket s) {
+			try {
+				s.close();
+			} catch (IOException e) {
+				// already closed by the other relay direction
+			}
+		}
+	}
+}
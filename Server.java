@@ -1,42 +1,90 @@
 import java.io.*;
+import java.net.InetAddress;
 import java.net.ServerSocket;
 import java.net.Socket;
 import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.util.*;
 import java.util.stream.Collectors;
 
+import ServerSupport.AdmissionControl;
+import ServerSupport.AsyncLog;
+
 public class Server {
-	private static final int PORT = 13337;
+	private static final int DEFAULT_PORT = 13337;
+	// Commands a Router sends to a shard in place of a nickname
+	static final String SHARD_STATUS = "SHARD_STATUS";
+	static final String SHARD_JOIN = "SHARD_JOIN";
+	// Shared secret the router sends after each command; empty when not configured
+	static final String SHARD_TOKEN = Objects.requireNonNullElse(System.getenv("SHARD_TOKEN"), "");
+	private static AdmissionControl admission;
+	private static int port = DEFAULT_PORT;
+	private static int shardIndex = -1; // -1 when running as a standalone server
+	private static int shardCount = 1;
+	private static final List<String> DEFAULT_GAMES = List.of("game1", "game2", "game3");
 	private static List<Game> games = Collections.synchronizedList(new ArrayList<>());
 	private static List<Player> allPlayers = Collections.synchronizedList(new ArrayList<>());
-	private static List<Ticket> tickets = Collections.synchronizedList(new ArrayList<>());
 	private static List<String> leaderboard = Collections.synchronizedList(new ArrayList<>());
 
+	// Usage: java Server                         standalone on port 13337
+	//        java Server <port> <shard> <count>  one shard of a Router deployment,
+	//                                            listening on loopback only
 	public static void main(String[] args) {
 		try {
+			if (args.length == 3) {
+				port = Integer.parseInt(args[0]);
+				shardIndex = Integer.parseInt(args[1]);
+				shardCount = Integer.parseInt(args[2]);
+				// Every connection comes from the router, so the per-IP limit does not apply
+				admission = AdmissionControl.withoutAddressLimit();
+			} else {
+				admission = AdmissionControl.withDefaults();
+			}
 			initializeDefaultGames();
-			System.out.println("Server started on port " + PORT);
+			AsyncLog.info("Server started", "port", port, "shard", shardIndex, "shards", shardCount);
 			startPinging(); // Start the pinging process
 
-			try (ServerSocket serverSocket = new ServerSocket(PORT)) {
+			// A shard trusts the identity the router hands it, so it must not be
+			// reachable from outside this host
+			try (ServerSocket serverSocket = shardIndex >= 0
+					? new ServerSocket(port, 50, InetAddress.getLoopbackAddress())
+					: new ServerSocket(port)) {
 				while (true) {
 					Socket clientSocket = serverSocket.accept();
-					System.out.println("Client connected: " + clientSocket.getInetAddress().getHostAddress());
-					new ClientHandler(clientSocket).start();
+					String ip = clientSocket.getInetAddress().getHostAddress();
+					AdmissionControl.Admission ticket = admission.tryAdmit(clientSocket);
+					if (!ticket.isAdmitted()) {
+						// No handler is spawned, so a flood costs the accept loop one small write
+						AdmissionControl.rejectObjectStream(clientSocket, ticket.getReason());
+						continue;
+					}
+					AsyncLog.info("Client connected", "ip", ip, "sessions", admission.activeSessions());
+					new ClientHandler(clientSocket, ticket).start();
 				}
 			} catch (IOException e) {
-				System.out.println("Server error: " + e.getMessage());
+				AsyncLog.error("Server error", e);
 			}
 		} catch (Exception e) {
-			e.printStackTrace();
+			AsyncLog.error("Server failed to start", e);
 		}
 	}
 
+	/**
+	 * Index of the shard that owns a game. String.hashCode is specified by the
+	 * JLS, so the router and every shard process agree on the owner.
+	 */
+	static int shardFor(String gameName, int shardCount) {
+		return Math.floorMod(gameName.hashCode(), shardCount);
+	}
+
 	private static void initializeDefaultGames() {
-		games.add(new Game("game1"));
-		games.add(new Game("game2"));
-		games.add(new Game("game3"));
-		System.out.println("Default games initialized.");
+		for (String name : DEFAULT_GAMES) {
+			if (shardIndex < 0 || shardFor(name, shardCount) == shardIndex) {
+				games.add(new Game(name));
+			}
+		}
+		AsyncLog.info("Default games initialized", "count", games.size());
 	}
 
 	private static void startPinging() {
@@ -46,10 +94,10 @@ public class Server {
 					pingPlayers();
 					Thread.sleep(120000); // Ping every 120 seconds and wait for 120 seconds to recieve a response
 				} catch (InterruptedException e) {
-					System.out.println("Pinging thread interrupted: " + e.getMessage());
+					AsyncLog.warn("Pinging thread interrupted", "reason", e.getMessage());
 					break;
 				} catch (IOException e) {
-					System.out.println("IOException during pinging: " + e.getMessage());
+					AsyncLog.warn("IOException during pinging", "reason", e.getMessage());
 				}
 			}
 		});
@@ -65,23 +113,22 @@ public class Server {
 					p.getSocket().setSoTimeout(120000); // Set timeout for ping response
 
 					// Send a ping message
-					p.getOut().writeObject("PING");
-					p.getOut().flush();
+					p.send("PING");
 
 					// Await a pong response for 5 seconds
 					String response = (String) p.getIn().readObject();
 					if (!"PONG".equals(response)) {
 						throw new IOException("Unexpected response from player " + p.getName());
 					} else {
-						System.out.println("Ping Successful " + p.getName() + " Response: " + response);
+						AsyncLog.debug("Ping successful", "player", p.getName(), "response", response);
 					}
 				}
 			} catch (SocketTimeoutException | ClassNotFoundException e) {
-				System.out
-						.println("Player " + p.getName() + " timed out or failed to respond correctly, disconnecting.");
+				AsyncLog.warn("Player timed out or failed to respond correctly, disconnecting", "player",
+						p.getName());
 				disconnectPlayer(p);
 			} catch (IOException e) {
-				System.out.println("IO Error with player " + p.getName() + ": " + e.getMessage());
+				AsyncLog.warn("IO error during ping", "player", p.getName(), "reason", e.getMessage());
 				disconnectPlayer(p);
 			}
 		}
@@ -91,11 +138,26 @@ public class Server {
 		try {
 			player.getSocket().close();
 		} catch (IOException e) {
-			System.out.println("Error while disconnecting player " + player.getName() + ": " + e.getMessage());
+			AsyncLog.warn("Error while disconnecting player", "player", player.getName(), "reason",
+					e.getMessage());
 		}
+		player.getAdmission().close();
 		player.setConnected(false);
 		allPlayers.remove(player);
-		System.out.println("Player " + player.getName() + " has been disconnected.");
+		removeFromGames(player);
+		AsyncLog.info("Player disconnected", "player", player.getName());
+	}
+
+	// Takes a departed player out of every lobby, then forgets games left empty
+	// and idle, so abandoned game names do not pile up for the server's lifetime.
+	// The default games always stay listed.
+	private static void removeFromGames(Player player) {
+		synchronized (games) {
+			for (Game game : games) {
+				game.removePlayer(player);
+			}
+			games.removeIf(game -> game.isAbandoned() && !DEFAULT_GAMES.contains(game.getGameName()));
+		}
 	}
 
 	static class ClientHandler extends Thread {
@@ -103,35 +165,65 @@ public class Server {
 		private ObjectOutputStream out;
 		private ObjectInputStream in;
 		private Player player;
+		private final AdmissionControl.Admission admissionTicket;
 
-		public ClientHandler(Socket socket) {
+		public ClientHandler(Socket socket, AdmissionControl.Admission admissionTicket) {
 			this.socket = socket;
-			try {
-				out = new ObjectOutputStream(socket.getOutputStream());
-				in = new ObjectInputStream(socket.getInputStream());
-			} catch (IOException e) {
-				System.out.println("Error setting up streams: " + e.getMessage());
-			}
+			this.admissionTicket = admissionTicket;
 		}
 
 		public void run() {
+			boolean handedOff = false;
 			try {
-				String nickname = (String) in.readObject();
-				player = findOrCreatePlayer(nickname);
-				out.writeObject("Identification successful. Welcome, " + nickname + "\nYour ticket ID is "
-						+ player.getTicket().getTID());
+				// Streams are opened here rather than in the constructor so a client that
+				// never sends its stream header cannot stall the accept loop. The admission
+				// deadline bounds the whole handshake; the read timeout only limits one read.
+				socket.setSoTimeout(AdmissionControl.HANDSHAKE_TIMEOUT_MS);
+				out = new ObjectOutputStream(socket.getOutputStream());
+				out.writeObject(AdmissionControl.WELCOME);
 				out.flush();
+				in = new ObjectInputStream(socket.getInputStream());
 
-				updateLeaderboard();
-				out.writeObject(leaderboard);
-				out.flush();
+				String nickname = (String) in.readObject();
+				String gameName;
+				if (shardIndex >= 0 && !isRouterCommand(nickname)) {
+					AsyncLog.warn("Rejected connection that did not come from the router", "ip",
+							socket.getInetAddress().getHostAddress());
+					return;
+				}
+				// Only a shard takes router commands; a standalone server treats these
+				// words as ordinary nicknames
+				if (shardIndex >= 0 && SHARD_STATUS.equals(nickname)) {
+					sendShardStatus();
+					return;
+				} else if (shardIndex >= 0 && SHARD_JOIN.equals(nickname)) {
+					// The router already identified the player and showed the lobby
+					nickname = (String) in.readObject();
+					UUID ticketId = UUID.fromString((String) in.readObject());
+					gameName = (String) in.readObject();
+					socket.setSoTimeout(0);
+					admissionTicket.handshakeCompleted();
+					player = findOrCreatePlayer(nickname, ticketId);
+				} else {
+					socket.setSoTimeout(0);
+					admissionTicket.handshakeCompleted();
+					player = findOrCreatePlayer(nickname, UUID.randomUUID());
+					out.writeObject("Identification successful. Welcome, " + nickname + "\nYour ticket ID is "
+							+ player.getTicket().getTID());
+					out.flush();
 
-				out.writeObject(getConnectedPlayers());
-				out.flush();
+					updateLeaderboard();
+					out.writeObject(leaderboard);
+					out.flush();
+
+					out.writeObject(getConnectedPlayers());
+					out.flush();
+
+					sendAvailableGames();
 
-				sendAvailableGames();
+					gameName = (String) in.readObject();
+				}
 
-				String gameName = (String) in.readObject();
 				Game game = null;
 				synchronized (games) {
 					game = games.stream().filter(g -> g.getGameName().equals(gameName)).findFirst().orElse(null);
@@ -143,27 +235,72 @@ public class Server {
 				}
 				game.addPlayer(player);
 
-				while (!socket.isClosed() && player.getPoints() >= 0) {
-					// Maintain connection and game logic processing
-				}
+				// From here on the Player record owns the session: the game and ping
+				// threads use its streams and disconnectPlayer closes it, so this
+				// thread and its stack are released instead of idling per connection
+				handedOff = player.getSocket() == socket;
+			} catch (SocketTimeoutException e) {
+				AsyncLog.warn(player == null ? "Handshake timed out" : "Client timed out", "ip",
+						socket.getInetAddress().getHostAddress());
 			} catch (IOException | ClassNotFoundException e) {
-				System.out.println("Error handling client: " + e.getMessage());
+				AsyncLog.warn("Error handling client", "player", player == null ? null : player.getName(), "reason",
+						e.getMessage());
 			} finally {
-				try {
-					socket.close();
-				} catch (IOException e) {
-					System.out.println("Error closing socket: " + e.getMessage());
+				if (!handedOff) {
+					if (player != null && player.getSocket() == socket) {
+						disconnectPlayer(player);
+					}
+					admissionTicket.close();
+					try {
+						socket.close();
+					} catch (IOException e) {
+						AsyncLog.warn("Error closing socket", "reason", e.getMessage());
+					}
 				}
 			}
 		}
 
+		// In shard mode only SHARD_STATUS and SHARD_JOIN followed by the shared
+		// token are accepted, so clients cannot bypass the router's identification
+		private boolean isRouterCommand(String command) throws IOException, ClassNotFoundException {
+			if (!SHARD_STATUS.equals(command) && !SHARD_JOIN.equals(command)) {
+				return false;
+			}
+			String token = (String) in.readObject();
+			return MessageDigest.isEqual(token.getBytes(StandardCharsets.UTF_8),
+					SHARD_TOKEN.getBytes(StandardCharsets.UTF_8));
+		}
+
 		private void sendAvailableGames() throws IOException {
-			List<String> gameNames = games.stream().map(game -> game.getGameName() + "\t\t" + game.getPlayers().size()
-					+ "/6\t\t" + game.isActive + "\t\t" + game.isLocked).collect(Collectors.toList());
-			out.writeObject(gameNames);
+			out.writeObject(describeGames());
 			out.flush();
 		}
 
+		// Answers a router's SHARD_STATUS query: this shard's index and count, so the
+		// router can check its shard order, then wins per player, connected players
+		// and this shard's games, which the router merges across all shards
+		private void sendShardStatus() throws IOException {
+			HashMap<String, Integer> wins = new HashMap<>();
+			synchronized (allPlayers) {
+				for (Player p : allPlayers) {
+					wins.merge(p.getTicket().getPseudoName(), p.getTotalWins(), Integer::sum);
+				}
+			}
+			out.writeObject(shardIndex);
+			out.writeObject(shardCount);
+			out.writeObject(wins);
+			out.writeObject(new ArrayList<>(getConnectedPlayers()));
+			out.writeObject(new ArrayList<>(describeGames()));
+			out.flush();
+		}
+
+		private List<String> describeGames() {
+			synchronized (games) {
+				return games.stream().map(game -> game.getGameName() + "\t\t" + game.getPlayers().size() + "/6\t\t"
+						+ game.isActive + "\t\t" + game.isLocked).collect(Collectors.toList());
+			}
+		}
+
 		private void updateLeaderboard() {
 			leaderboard = allPlayers.stream().sorted(Comparator.comparingInt(Player::getTotalWins).reversed()).limit(5)
 					.map(p -> p.getTicket().getPseudoName() + " - Wins: " + p.getTotalWins())
@@ -174,16 +311,15 @@ public class Server {
 			return allPlayers.stream().filter(Player::isConnected).map(Player::getName).collect(Collectors.toList());
 		}
 
-		private Player findOrCreatePlayer(String pseudoName) {
+		private Player findOrCreatePlayer(String pseudoName, UUID ticketId) {
 			for (Player p : allPlayers) {
 				if (p.getName().equals(pseudoName) && p.isConnected()) {
 					return p;
 				}
 			}
 
-			Ticket newTicket = new Ticket(pseudoName);
-			tickets.add(newTicket);
-			Player newPlayer = new Player(newTicket, pseudoName, out, in, socket);
+			Ticket newTicket = new Ticket(ticketId, pseudoName);
+			Player newPlayer = new Player(newTicket, pseudoName, out, in, socket, admissionTicket);
 			allPlayers.add(newPlayer);
 			return newPlayer;
 		}
@@ -193,16 +329,19 @@ public class Server {
 		private String gameName;
 		private List<Player> players = Collections.synchronizedList(new ArrayList<>());
 		private List<Player> playersBroadCast = Collections.synchronizedList(new ArrayList<>());
-		private boolean isActive = false;
+		private volatile boolean isActive = false;
 		private boolean isLocked = false;
+		private volatile boolean leaderPromptPending = false; // the game thread is waiting for the leader's answer
 		private int roundNumber = 0; // Declare and initialize the round number
-		ArrayList<String> eliminatedPlayers = new ArrayList<>();
+		// Most recent eliminations only, so a long-lived lobby does not grow without bound
+		private static final int ELIMINATED_HISTORY = 16;
+		ArrayDeque<String> eliminatedPlayers = new ArrayDeque<>();
 
 		public Game(String gameName) {
 			this.gameName = gameName;
 		}
 
-		public synchronized void addPlayer(Player player) throws IOException, ClassNotFoundException {
+		public synchronized void addPlayer(Player player) throws IOException {
 
 			if (playersBroadCast.size() >= 6) {
 				isLocked = true;
@@ -210,41 +349,64 @@ public class Server {
 
 			if (isLocked == true) {
 				// Properly notify the player without adding them to the game
-				player.getOut().writeObject(
+				player.send(
 						"Game is already started or locked. Please wait for the next round or choose another game.");
-				player.getOut().flush();
 				return; // Return here to prevent adding to the game
 			}
 
 			players.add(player);
 			playersBroadCast.add(player);
 			if (players.size() >= 2) {
-				promptLeaderToStartGame();
+				if (!leaderPromptPending) {
+					leaderPromptPending = true;
+					new Thread(this::promptLeaderToStartGame, "game-" + gameName).start();
+				}
 			} else {
 				notifyPlayerGamePending(player);
 			}
 			// Confirm the player has joined if and only if they are actually added to the
 			// game
-			player.getOut().writeObject("Joined game: " + this.gameName);
-			player.getOut().flush();
-		}
-
-		private void promptLeaderToStartGame() throws IOException, ClassNotFoundException {
-			Player leader = players.get(0); // Assuming the first player is the leader
-			leader.getOut().writeObject("#Players in Lobby: " + playersBroadCast.size()
-					+ "\nLeader, do you want to start the game? (yes or no)");
-			leader.getOut().flush();
-			String leaderResponse = (String) leader.getIn().readObject();
-			if ("yes".equalsIgnoreCase(leaderResponse.trim())) {
-				isActive = true;
-				isLocked = true;
-				new Thread(this::runGame).start();
+			player.send("Joined game: " + this.gameName);
+		}
+
+		// Runs on the game's own thread and reads the answer without holding the
+		// Game monitor, so joining handler threads return straight away instead
+		// of waiting on the leader. The same thread then runs the rounds.
+		private void promptLeaderToStartGame() {
+			boolean start = false;
+			Player leader = null;
+			try {
+				synchronized (players) {
+					leader = players.isEmpty() ? null : players.get(0); // the first player is the leader
+				}
+				if (leader == null) {
+					throw new IOException("every player left the lobby");
+				}
+				leader.send("#Players in Lobby: " + playersBroadCast.size()
+						+ "\nLeader, do you want to start the game? (yes or no)");
+				String leaderResponse = (String) leader.getIn().readObject();
+				start = "yes".equalsIgnoreCase(leaderResponse.trim());
+			} catch (IOException | ClassNotFoundException e) {
+				AsyncLog.warn("Leader did not answer the start prompt", "game", gameName, "reason", e.getMessage());
+				// A broken connection, not just a slow answer, means the leader is gone
+				if (leader != null && e instanceof IOException && !(e instanceof SocketTimeoutException)) {
+					disconnectPlayer(leader);
+				}
+			}
+			synchronized (this) {
+				leaderPromptPending = false;
+				if (start) {
+					isActive = true;
+					isLocked = true;
+				}
+			}
+			if (start) {
+				runGame();
 			}
 		}
 
 		private void notifyPlayerGamePending(Player player) throws IOException {
-			player.getOut().writeObject("Waiting for game to start...");
-			player.getOut().flush();
+			player.send("Waiting for game to start...");
 		}
 
 		private void runGame() {
@@ -254,34 +416,45 @@ public class Server {
 					playRound();
 					Thread.sleep(2000); // Delay between rounds
 				}
-				isActive = false;
-				isLocked = false;
 			} catch (InterruptedException e) {
 				Thread.currentThread().interrupt();
-				System.out.println("Game run interrupted: " + e.getMessage());
+				AsyncLog.warn("Game run interrupted", "game", gameName, "round", roundNumber);
 			} catch (Exception e) {
-				System.out.println("An error occurred in the game loop: " + e.getMessage());
+				AsyncLog.error("An error occurred in the game loop", e, "game", gameName, "round", roundNumber);
+			} finally {
+				// Also after a failed round, so the lobby can be reused or dropped once empty
+				isActive = false;
+				isLocked = false;
 			}
 		}
 
+		// Not synchronized: a running round holds the monitor while it waits on
+		// players, so this edits the lists directly and rounds iterate over copies
+		void removePlayer(Player player) {
+			players.remove(player);
+			playersBroadCast.remove(player);
+		}
+
+		boolean isAbandoned() {
+			return playersBroadCast.isEmpty() && !isActive && !leaderPromptPending;
+		}
+
 		private synchronized void playRound() throws IOException, ClassNotFoundException {
 			roundNumber++;
 			Map<Player, Integer> selections = new HashMap<>();
 			double sum = 0;
 
 			// if players in the game more than 2
-			for (Player player : playersBroadCast) {
+			for (Player player : new ArrayList<>(playersBroadCast)) {
 				if (player.getPoints() > 0) {
-					player.getOut().writeObject(
+					player.send(
 							"Round " + roundNumber + " has started. Please choose a number between (0-100).");
-					player.getOut().flush();
 					int choice = (int) player.getIn().readObject();
 					player.setChoice(choice);
 					selections.put(player, choice);
 					sum += choice;
 				} else {
-					player.getOut().writeObject("You are eliminated. Round " + roundNumber + " has begun.");
-					player.getOut().flush();
+					player.send("You are eliminated. Round " + roundNumber + " has begun.");
 					players.remove(player);
 				}
 			}
@@ -321,24 +494,27 @@ public class Server {
 			}
 
 			// decrementing the points for round losers, excepting spectators
-			for (Player player : players) {
+			for (Player player : new ArrayList<>(players)) {
 				if (player != winner) {
 					player.decreasePoints();
 					if (player.getPoints() <= 0) {
-						eliminatedPlayers.add(player.getName());
+						if (eliminatedPlayers.size() >= ELIMINATED_HISTORY) {
+							eliminatedPlayers.removeFirst();
+						}
+						eliminatedPlayers.addLast(player.getName());
+						AsyncLog.info("Player eliminated", "player", player.getName(), "game", gameName, "round",
+								roundNumber);
 					}
 				}
 
 			}
 
 			// broadCasting results to all lobby players
-			for (Player player : playersBroadCast) {
+			for (Player player : new ArrayList<>(playersBroadCast)) {
 
-				player.getOut()
-						.writeObject("++++++++++++++++++\nRound " + roundNumber + "\nPlayers\t\tPoints\t\tChoice\n"
-								+ players.toString() + "\n" + "winner is " + winner.getName() + "\nEliminated Players\n"
-								+ eliminatedPlayers + "\n++++++++++++++++++");
-				player.getOut().flush();
+				player.send("++++++++++++++++++\nRound " + roundNumber + "\nPlayers\t\tPoints\t\tChoice\n"
+						+ players.toString() + "\n" + "winner is " + winner.getName() + "\nEliminated Players\n"
+						+ eliminatedPlayers + "\n++++++++++++++++++");
 
 			}
 
@@ -359,18 +535,21 @@ public class Server {
 		private ObjectOutputStream out;
 		private ObjectInputStream in;
 		private Socket socket;
+		private AdmissionControl.Admission admission; // session permit, released on disconnect
 		private int choice; // Last number chosen by the player in a game round
 
 		private int totalWins = 0; // Total wins accumulated by the player
 		private Ticket ticket; // Ticket associated with the player for identification
 		private boolean isConnected = false; // Tracks if the player is currently connected
 
-		public Player(Ticket ticket, String name, ObjectOutputStream out, ObjectInputStream in, Socket socket) {
+		public Player(Ticket ticket, String name, ObjectOutputStream out, ObjectInputStream in, Socket socket,
+				AdmissionControl.Admission admission) {
 			this.ticket = ticket;
 			this.name = name;
 			this.out = out;
 			this.in = in;
 			this.socket = socket;
+			this.admission = admission;
 			this.isConnected = true; // Set true as default when a player is created
 		}
 
@@ -385,9 +564,16 @@ public class Server {
 
 		public void decreasePoints() {
 			this.points--;
-			if (this.points <= 0) {
-				System.out.println(this.name + " has been eliminated from the game.");
-			}
+		}
+
+		/**
+		 * Sends one message. The stream is reset after every write; otherwise both
+		 * ends keep a handle to every message ever sent for the whole session.
+		 */
+		public synchronized void send(Object message) throws IOException {
+			out.writeObject(message);
+			out.reset();
+			out.flush();
 		}
 
 		public void increaseWins() {
@@ -415,6 +601,10 @@ public class Server {
 			return this.socket;
 		}
 
+		public AdmissionControl.Admission getAdmission() {
+			return this.admission;
+		}
+
 		public int getTotalWins() {
 			return this.totalWins;
 		}
@@ -449,8 +639,8 @@ public class Server {
 		private final UUID TID;
 		private final String pseudoName;
 
-		public Ticket(String pseudoName) {
-			this.TID = UUID.randomUUID();
+		public Ticket(UUID TID, String pseudoName) {
+			this.TID = TID;
 			this.pseudoName = pseudoName;
 		}
 